@@ -7,6 +7,7 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
+import java.util.List;
 
 public class RecruitmentSystemGUI extends JFrame implements ActionListener {
 
@@ -16,12 +17,19 @@ public class RecruitmentSystemGUI extends JFrame implements ActionListener {
             weeklyHoursField, workingHoursField, wagesPerHourField, shiftsField;
     private JCheckBox joinedCheckBox;
     private JButton addFullTimeButton, addPartTimeButton, setSalaryButton,
-            setShiftsButton, terminatePartTimeButton, displayAllButton, searchButton;
+            setShiftsButton, terminatePartTimeButton, displayAllButton, searchButton, nextPageButton;
     private JTextArea displayArea;
 
-    // ArrayList to store all staff (both full-time and part-time)
+    // ArrayList to store all staff (both full-time and part-time), kept sorted by unique vacancy number.
+    // Do not call setVacancyNumber on a staff in this list: it would break the sort order.
     private ArrayList<StaffHire> staffList;
 
+    // Number of staff shown per page by Display All (override with -Drecruitment.pageSize=N)
+    private static final int PAGE_SIZE = Math.max(1, Integer.getInteger("recruitment.pageSize", 20));
+
+    // Vacancy number of the last staff shown by Display All, or null when there are no more pages
+    private Integer pageCursor;
+
     /**
      * Constructor to initialize the GUI and set up components
      */
@@ -81,6 +89,7 @@ public class RecruitmentSystemGUI extends JFrame implements ActionListener {
         terminatePartTimeButton = createButton("Terminate Part time");
         displayAllButton = createButton("Display All");
         searchButton = createButton("Search");
+        nextPageButton = createButton("Next Page");
 
         // Add buttons to a separate panel
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
@@ -91,6 +100,7 @@ public class RecruitmentSystemGUI extends JFrame implements ActionListener {
         addButton(terminatePartTimeButton, buttonPanel);
         addButton(displayAllButton, buttonPanel);
         addButton(searchButton, buttonPanel);
+        addButton(nextPageButton, buttonPanel);
 
         // Create display area for showing results
         displayArea = new JTextArea(10, 40);
@@ -140,6 +150,130 @@ public class RecruitmentSystemGUI extends JFrame implements ActionListener {
         panel.add(button);
     }
 
+    /**
+     * Adds a staff to the list, keeping the list sorted by vacancy number
+     * 
+     * @param staff Staff to add
+     * @throws IllegalArgumentException if a staff with the same vacancy number already exists
+     */
+    private void addStaff(StaffHire staff) {
+        int index = firstIndexAtOrAfter(staff.getVacancyNumber());
+        if (index < staffList.size() && staffList.get(index).getVacancyNumber() == staff.getVacancyNumber()) {
+            throw new IllegalArgumentException("Vacancy number " + staff.getVacancyNumber() + " already exists.");
+        }
+        staffList.add(index, staff);
+    }
+
+    /**
+     * Binary search the sorted list for the staff with the given vacancy number
+     * 
+     * @param vacancyNumber Vacancy number to search for
+     * @return The matching staff, or null if there is none
+     */
+    private StaffHire findStaff(int vacancyNumber) {
+        int index = firstIndexAtOrAfter(vacancyNumber);
+        if (index < staffList.size() && staffList.get(index).getVacancyNumber() == vacancyNumber) {
+            return staffList.get(index);
+        }
+        return null;
+    }
+
+    /**
+     * Binary search for the position of the first staff with a vacancy number
+     * greater than or equal to the given one
+     * 
+     * @param vacancyNumber Vacancy number to search for
+     * @return Index of the first matching staff, or the list size if there is none
+     */
+    private int firstIndexAtOrAfter(int vacancyNumber) {
+        int low = 0;
+        int high = staffList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (staffList.get(mid).getVacancyNumber() < vacancyNumber) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Binary search for the position of the first staff with a vacancy number
+     * strictly greater than the given one
+     * 
+     * @param vacancyNumber Vacancy number to search past
+     * @return Index of the first later staff, or the list size if there is none
+     */
+    private int firstIndexAfter(int vacancyNumber) {
+        return vacancyNumber == Integer.MAX_VALUE
+                ? staffList.size() : firstIndexAtOrAfter(vacancyNumber + 1);
+    }
+
+    /**
+     * Returns the next page of staff ordered by vacancy number.
+     * The page is keyed on vacancy number rather than position, so staff added or
+     * terminated between calls never cause a page to skip or repeat entries.
+     * 
+     * @param afterVacancy Vacancy number of the last staff already seen, or null for the first page
+     * @param pageSize Maximum number of staff to return, at least 1
+     * @return The staff on the page, empty when there are no more
+     * @throws IllegalArgumentException if pageSize is less than 1
+     */
+    public List<StaffHire> nextPage(Integer afterVacancy, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1.");
+        }
+        int start = afterVacancy == null ? 0 : firstIndexAfter(afterVacancy);
+        int end = start + Math.min(pageSize, staffList.size() - start);
+        return new ArrayList<>(staffList.subList(start, end));
+    }
+
+    /**
+     * Shows the next page of staff in the display area, replacing the previous page
+     * 
+     * @param afterVacancy Vacancy number of the last staff already shown, or null for the first page
+     */
+    private void showPage(Integer afterVacancy) {
+        displayArea.setText(""); // Clear display area
+        List<StaffHire> page = nextPage(afterVacancy, PAGE_SIZE);
+        if (page.isEmpty()) {
+            pageCursor = null;
+            displayArea.append("No more staff to display.\n");
+            return;
+        }
+
+        for (StaffHire staff : page) {
+            displayArea.append(getDisplayText(staff) + "\n");
+        }
+        pageCursor = page.get(page.size() - 1).getVacancyNumber();
+    }
+
+    /**
+     * Captures the output of a staff's display() method as text
+     * 
+     * @param staff Staff to display
+     * @return The text printed by display()
+     */
+    private String getDisplayText(StaffHire staff) {
+        // Redirect System.out to capture output from display() method
+        java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+        java.io.PrintStream ps = new java.io.PrintStream(baos);
+        java.io.PrintStream old = System.out;
+        System.setOut(ps);
+
+        // Call display method which prints to System.out
+        try {
+            staff.display();
+        } finally {
+            // Restore System.out and get captured text
+            System.out.flush();
+            System.setOut(old);
+        }
+        return baos.toString();
+    }
+
     /**
      * Action listener for all buttons in the GUI
      * Handles button clicks and performs appropriate actions
@@ -168,7 +302,7 @@ public class RecruitmentSystemGUI extends JFrame implements ActionListener {
                         staffName, joiningDate, qualification, appointedBy, joined, salary, weeklyHours);
 
                 // Add to staff list and show success message
-                staffList.add(fullTime);
+                addStaff(fullTime);
                 displayArea.append("Full-time staff added successfully!\n");
 
             // Add Part-Time Staff button action
@@ -191,7 +325,7 @@ public class RecruitmentSystemGUI extends JFrame implements ActionListener {
                         staffName, joiningDate, qualification, appointedBy, joined, workingHours, wagesPerHour, shifts);
 
                 // Add to staff list and show success message
-                staffList.add(partTime);
+                addStaff(partTime);
                 displayArea.append("Part-time staff added successfully!\n");
 
             // Set Salary button action
@@ -200,14 +334,13 @@ public class RecruitmentSystemGUI extends JFrame implements ActionListener {
                 int vacancyNumber = Integer.parseInt(vacancyNumberField.getText());
                 double newSalary = Double.parseDouble(salaryField.getText());
                 
-                // Search for matching full-time staff
-                for (StaffHire staff : staffList) {
-                    if (staff instanceof FullTimeStaffHire && staff.getVacancyNumber() == vacancyNumber) {
-                        // Update salary if found
-                        ((FullTimeStaffHire) staff).setSalary(newSalary);
-                        displayArea.append("Salary updated for Full-time staff.\n");
-                        return;
-                    }
+                // Binary search for matching full-time staff
+                StaffHire staff = findStaff(vacancyNumber);
+                if (staff instanceof FullTimeStaffHire) {
+                    // Update salary if found
+                    ((FullTimeStaffHire) staff).setSalary(newSalary);
+                    displayArea.append("Salary updated for Full-time staff.\n");
+                    return;
                 }
                 // If no matching staff found
                 displayArea.append("Full-time staff not found.\n");
@@ -218,14 +351,13 @@ public class RecruitmentSystemGUI extends JFrame implements ActionListener {
                 int vacancyNumber = Integer.parseInt(vacancyNumberField.getText());
                 String newShift = shiftsField.getText();
                 
-                // Search for matching part-time staff
-                for (StaffHire staff : staffList) {
-                    if (staff instanceof PartTimeStaffHire && staff.getVacancyNumber() == vacancyNumber) {
-                        // Update shifts if found
-                        ((PartTimeStaffHire) staff).setShifts(newShift);
-                        displayArea.append("Shifts updated for Part-time staff.\n");
-                        return;
-                    }
+                // Binary search for matching part-time staff
+                StaffHire staff = findStaff(vacancyNumber);
+                if (staff instanceof PartTimeStaffHire) {
+                    // Update shifts if found
+                    ((PartTimeStaffHire) staff).setShifts(newShift);
+                    displayArea.append("Shifts updated for Part-time staff.\n");
+                    return;
                 }
                 // If no matching staff found
                 displayArea.append("Part-time staff not found.\n");
@@ -235,14 +367,13 @@ public class RecruitmentSystemGUI extends JFrame implements ActionListener {
                 // Parse input values
                 int vacancyNumber = Integer.parseInt(vacancyNumberField.getText());
                 
-                // Search for matching part-time staff
-                for (StaffHire staff : staffList) {
-                    if (staff instanceof PartTimeStaffHire && staff.getVacancyNumber() == vacancyNumber) {
-                        // Terminate staff if found
-                        ((PartTimeStaffHire) staff).terminateStaff();
-                        displayArea.append("Part-time staff terminated.\n");
-                        return;
-                    }
+                // Binary search for matching part-time staff
+                StaffHire staff = findStaff(vacancyNumber);
+                if (staff instanceof PartTimeStaffHire) {
+                    // Terminate staff if found
+                    ((PartTimeStaffHire) staff).terminateStaff();
+                    displayArea.append("Part-time staff terminated.\n");
+                    return;
                 }
                 // If no matching staff found
                 displayArea.append("Part-time staff not found.\n");
@@ -253,48 +384,24 @@ public class RecruitmentSystemGUI extends JFrame implements ActionListener {
                 int vacancyNumber = Integer.parseInt(vacancyNumberField.getText());
                 displayArea.setText(""); // Clear display area
                 
-                // Search for any staff with matching vacancy number
-                for (StaffHire staff : staffList) {
-                    if (staff.getVacancyNumber() == vacancyNumber) {
-                        // Redirect System.out to capture output from display() method
-                        java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
-                        java.io.PrintStream ps = new java.io.PrintStream(baos);
-                        java.io.PrintStream old = System.out;
-                        System.setOut(ps);
-                        
-                        // Call display method which prints to System.out
-                        staff.display();
-                        
-                        // Restore System.out and get captured text
-                        System.out.flush();
-                        System.setOut(old);
-                        displayArea.append(baos.toString());
-                        return;
-                    }
+                // Binary search for any staff with matching vacancy number
+                StaffHire staff = findStaff(vacancyNumber);
+                if (staff != null) {
+                    displayArea.append(getDisplayText(staff));
+                    return;
                 }
                 // If no matching staff found
                 displayArea.append("Staff not found.\n");
 
             // Display All button action
             } else if (e.getSource() == displayAllButton) {
-                displayArea.setText(""); // Clear display area
-                
-                // Display all staff in the list
-                for (StaffHire staff : staffList) {
-                    // Redirect System.out to capture output from display() method
-                    java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
-                    java.io.PrintStream ps = new java.io.PrintStream(baos);
-                    java.io.PrintStream old = System.out;
-                    System.setOut(ps);
-                    
-                    // Call display method which prints to System.out
-                    staff.display();
-                    
-                    // Restore System.out and get captured text
-                    System.out.flush();
-                    System.setOut(old);
-                    displayArea.append(baos.toString() + "\n");
-                }
+                // Display the first page of staff
+                showPage(null);
+
+            // Next Page button action
+            } else if (e.getSource() == nextPageButton) {
+                // Continue after the last staff shown, or start over once the end was reached
+                showPage(pageCursor);
             }
         } 
         // Handle any exceptions that occur during processing
@@ -305,10 +412,12 @@ public class RecruitmentSystemGUI extends JFrame implements ActionListener {
 
     /**
      * Main method to start the application
+     * The GUI is built on the Swing event dispatch thread so the main thread
+     * returns straight away and the window appears as soon as it is ready
      * 
      * @param args Command line arguments (not used)
      */
     public static void main(String[] args) {
-        new RecruitmentSystemGUI(); // Create an instance of the GUI
+        SwingUtilities.invokeLater(RecruitmentSystemGUI::new); // Create an instance of the GUI
     }
 }
\ No newline at end of file
@@ -99,6 +99,9 @@ public class StaffHire {
     // Setter methods - allow modification of private attributes
     
     /**
+     * The recruitment system keeps its staff sorted by vacancy number, so this
+     * must not be called on a staff that has already been added to it.
+     * 
      * @param vacancyNumber New vacancy number to set
      */
     public void setVacancyNumber(int vacancyNumber) {